@@ -3,7 +3,9 @@ package com.leandrosnazareth.spring_kit.controller;
 import com.leandrosnazareth.spring_kit.model.JavaVersion;
 import com.leandrosnazareth.spring_kit.model.ProjectRequest;
 import com.leandrosnazareth.spring_kit.service.DependencyService;
-import com.leandrosnazareth.spring_kit.service.ProjectGeneratorService;
+import com.leandrosnazareth.spring_kit.service.MetadataService;
+import com.leandrosnazareth.spring_kit.service.ProjectArchiveCache;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,12 +22,15 @@ import java.io.IOException;
 public class ProjectController {
 
     private final DependencyService dependencyService;
-    private final ProjectGeneratorService projectGeneratorService;
+    private final ProjectArchiveCache projectArchiveCache;
+    private final MetadataService metadataService;
 
     public ProjectController(DependencyService dependencyService, 
-                            ProjectGeneratorService projectGeneratorService) {
+                            ProjectArchiveCache projectArchiveCache,
+                            MetadataService metadataService) {
         this.dependencyService = dependencyService;
-        this.projectGeneratorService = projectGeneratorService;
+        this.projectArchiveCache = projectArchiveCache;
+        this.metadataService = metadataService;
     }
 
     @GetMapping("/")
@@ -41,18 +46,45 @@ public class ProjectController {
     @GetMapping("/api/spring-versions")
     @ResponseBody
     public String[] getSpringVersions(@RequestParam String javaVersion) {
-        for (JavaVersion jv : JavaVersion.values()) {
-            if (jv.getVersion().equals(javaVersion)) {
-                return jv.getCompatibleSpringVersions();
-            }
-        }
-        return new String[]{};
+        JavaVersion jv = JavaVersion.fromVersion(javaVersion);
+        return jv != null ? jv.getCompatibleSpringVersions() : new String[]{};
+    }
+
+    @GetMapping("/metadata/client")
+    public ResponseEntity<byte[]> getClientMetadata() {
+        // Spring answers 304 Not Modified itself when If-None-Match matches the ETag
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(metadataService.getETag())
+            .cacheControl(CacheControl.noCache())
+            .body(metadataService.getClientMetadata());
     }
 
     @PostMapping("/generate")
     public ResponseEntity<byte[]> generateProject(@Valid @ModelAttribute ProjectRequest request, 
                                                    BindingResult bindingResult,
                                                    RedirectAttributes redirectAttributes) {
+        return buildZipResponse(request, bindingResult);
+    }
+
+    /**
+     * One-shot generation for curl and other scripted clients, e.g.
+     * {@code /starter.zip?artifactId=demo&dependencies=web,jpa}.
+     */
+    @GetMapping("/starter.zip")
+    public ResponseEntity<byte[]> starterZip(@Valid @ModelAttribute ProjectRequest request,
+                                             BindingResult bindingResult) {
+        if (request.getSpringBootVersion() == null || request.getSpringBootVersion().isBlank()) {
+            JavaVersion jv = JavaVersion.fromVersion(request.getJavaVersion());
+            if (jv == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            request.setSpringBootVersion(jv.getDefaultSpringVersion());
+        }
+        return buildZipResponse(request, bindingResult);
+    }
+
+    private ResponseEntity<byte[]> buildZipResponse(ProjectRequest request, BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
             return ResponseEntity.badRequest().build();
         }
@@ -63,7 +95,7 @@ public class ProjectController {
         }
         
         try {
-            byte[] zipFile = projectGeneratorService.generateProject(request);
+            byte[] zipFile = projectArchiveCache.getOrGenerate(request);
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
@@ -0,0 +1,38 @@
+package com.leandrosnazareth.spring_kit.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON document served at {@code /metadata/client} so scripted clients can
+ * discover the available options without scraping the HTML form.
+ */
+@Getter
+@AllArgsConstructor
+public class ClientMetadata {
+    private List<JavaVersionOption> javaVersions;
+    private List<DependencyCategory> dependencies;
+    private List<String> projectTypes;
+    private List<String> languages;
+    private List<String> packagings;
+    private Map<String, Object> defaults;
+
+    @Getter
+    @AllArgsConstructor
+    public static class JavaVersionOption {
+        private String id;
+        private String name;
+        private String[] springBootVersions;
+        private String defaultSpringBootVersion;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DependencyCategory {
+        private String name;
+        private List<Dependency> values;
+    }
+}
@@ -11,4 +11,5 @@ public class Dependency {
     private String description;
     private String groupId;
     private String artifactId;
+    private String category;
 }
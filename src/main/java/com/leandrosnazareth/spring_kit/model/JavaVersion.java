@@ -15,4 +15,25 @@ public enum JavaVersion {
     private final String version;
     private final String label;
     private final String[] compatibleSpringVersions;
+
+    public static JavaVersion fromVersion(String version) {
+        for (JavaVersion jv : values()) {
+            if (jv.getVersion().equals(version)) {
+                return jv;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Latest compatible Spring Boot release, skipping snapshots.
+     */
+    public String getDefaultSpringVersion() {
+        for (int i = compatibleSpringVersions.length - 1; i >= 0; i--) {
+            if (!compatibleSpringVersions[i].endsWith("-SNAPSHOT")) {
+                return compatibleSpringVersions[i];
+            }
+        }
+        return compatibleSpringVersions[compatibleSpringVersions.length - 1];
+    }
 }
@@ -0,0 +1,18 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import java.io.IOException;
+
+/**
+ * One tier of the generated archive cache. Stores are consulted in
+ * {@link org.springframework.core.annotation.Order} sequence, so a shared
+ * store (Redis, S3, ...) can be added later as just another bean.
+ */
+public interface ArchiveStore {
+
+    /**
+     * @return the archive stored under {@code key}, or {@code null} on a miss
+     */
+    byte[] get(String key) throws IOException;
+
+    void put(String key, byte[] archive) throws IOException;
+}
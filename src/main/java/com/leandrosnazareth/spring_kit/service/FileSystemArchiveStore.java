@@ -0,0 +1,176 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed disk tier. Survives restarts and can be pointed at a
+ * volume shared between replicas; files are written to a temporary name and
+ * moved into place so readers never observe a partial archive.
+ * <p>
+ * The directory is bounded by total size: once a write pushes it over the
+ * limit, the least recently used archives (by modification time, which is
+ * refreshed on every hit) are deleted until it is back under a low-water mark,
+ * so the directory scan is paid for by many writes rather than every one.
+ * Temporary files left behind by a crash mid-write are removed by the same
+ * scan once they are old enough that no writer can still own them.
+ */
+@Component
+@Order(1)
+@ConditionalOnProperty(name = "spring-kit.archive-cache.disk.enabled", matchIfMissing = true)
+public class FileSystemArchiveStore implements ArchiveStore {
+
+    private static final String ARCHIVE_SUFFIX = ".zip";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Duration STALE_TEMP_AGE = Duration.ofMinutes(10);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long lowWaterBytes;
+    private final AtomicLong currentBytes = new AtomicLong();
+
+    public FileSystemArchiveStore(
+            @Value("${spring-kit.archive-cache.disk.directory:${java.io.tmpdir}/spring-kit/archives}") String directory,
+            @Value("${spring-kit.archive-cache.disk.max-bytes:268435456}") long maxBytes) throws IOException {
+        this.directory = Paths.get(directory);
+        this.maxBytes = maxBytes;
+        this.lowWaterBytes = maxBytes - maxBytes / 10;
+        // Archives left by a previous run count towards the limit
+        currentBytes.set(removeStaleTempFiles(listFiles()));
+    }
+
+    @Override
+    public byte[] get(String key) throws IOException {
+        Path file = resolve(key);
+        try {
+            byte[] archive = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return archive;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] archive) throws IOException {
+        if (archive.length > maxBytes) {
+            return;
+        }
+        Path file = resolve(key);
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), key, TEMP_SUFFIX);
+        try {
+            Files.write(temp, archive);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        if (currentBytes.addAndGet(archive.length) > maxBytes) {
+            evict();
+        }
+    }
+
+    private synchronized void evict() throws IOException {
+        if (currentBytes.get() <= maxBytes) {
+            // Another writer evicted while this one waited for the lock
+            return;
+        }
+        // Recount from disk: replicas sharing the directory also write to it
+        List<CachedFile> files = listFiles();
+        long total = removeStaleTempFiles(files);
+        if (total > maxBytes) {
+            files.sort(Comparator.comparing(CachedFile::lastModified));
+            for (CachedFile file : files) {
+                if (total <= lowWaterBytes) {
+                    break;
+                }
+                if (!file.temporary() && Files.deleteIfExists(file.path())) {
+                    total -= file.size();
+                }
+            }
+        }
+        currentBytes.set(total);
+    }
+
+    /**
+     * Deletes temporary files old enough to have been abandoned, dropping them
+     * from {@code files}, and returns the size of everything that is left.
+     */
+    private static long removeStaleTempFiles(List<CachedFile> files) throws IOException {
+        FileTime staleBefore = FileTime.from(Instant.now().minus(STALE_TEMP_AGE));
+        long total = 0;
+        for (Iterator<CachedFile> it = files.iterator(); it.hasNext(); ) {
+            CachedFile file = it.next();
+            if (file.temporary() && file.lastModified().compareTo(staleBefore) < 0) {
+                Files.deleteIfExists(file.path());
+                it.remove();
+            } else {
+                total += file.size();
+            }
+        }
+        return total;
+    }
+
+    private List<CachedFile> listFiles() throws IOException {
+        List<CachedFile> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (Stream<Path> paths = Files.walk(directory, 2)) {
+            paths.forEach(path -> {
+                String name = path.getFileName().toString();
+                boolean temporary = name.endsWith(TEMP_SUFFIX);
+                if (!temporary && !name.endsWith(ARCHIVE_SUFFIX)) {
+                    return;
+                }
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        files.add(new CachedFile(path, attributes.size(), attributes.lastModifiedTime(), temporary));
+                    }
+                } catch (NoSuchFileException e) {
+                    // Evicted concurrently
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return files;
+    }
+
+    private Path resolve(String key) {
+        // Shard by the first two characters to keep directories small
+        return directory.resolve(key.substring(0, 2)).resolve(key + ARCHIVE_SUFFIX);
+    }
+
+    private record CachedFile(Path path, long size, FileTime lastModified, boolean temporary) {
+    }
+}
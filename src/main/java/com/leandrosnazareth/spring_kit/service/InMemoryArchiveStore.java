@@ -0,0 +1,48 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-heap LRU tier, bounded by the total size of the cached archives.
+ */
+@Component
+@Order(0)
+public class InMemoryArchiveStore implements ArchiveStore {
+
+    private final long maxBytes;
+    private final Map<String, byte[]> archives = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    public InMemoryArchiveStore(@Value("${spring-kit.archive-cache.memory.max-bytes:67108864}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized byte[] get(String key) {
+        return archives.get(key);
+    }
+
+    @Override
+    public synchronized void put(String key, byte[] archive) {
+        if (archive.length > maxBytes) {
+            return;
+        }
+        byte[] previous = archives.put(key, archive);
+        if (previous != null) {
+            currentBytes -= previous.length;
+        }
+        currentBytes += archive.length;
+
+        Iterator<byte[]> eldest = archives.values().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import com.leandrosnazareth.spring_kit.model.ClientMetadata;
+import com.leandrosnazareth.spring_kit.model.JavaVersion;
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class MetadataService {
+
+    private final byte[] clientMetadata;
+    private final String eTag;
+
+    public MetadataService(DependencyService dependencyService, ObjectMapper objectMapper) {
+        // The catalog only changes with a new release, so the JSON is rendered once per snapshot
+        this.clientMetadata = objectMapper.writeValueAsBytes(buildClientMetadata(dependencyService));
+        this.eTag = "\"" + DigestUtils.md5DigestAsHex(clientMetadata) + "\"";
+    }
+
+    public byte[] getClientMetadata() {
+        return clientMetadata;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    private ClientMetadata buildClientMetadata(DependencyService dependencyService) {
+        List<ClientMetadata.JavaVersionOption> javaVersions = new ArrayList<>();
+        for (JavaVersion jv : JavaVersion.values()) {
+            javaVersions.add(new ClientMetadata.JavaVersionOption(jv.getVersion(), jv.getLabel(),
+                jv.getCompatibleSpringVersions(), jv.getDefaultSpringVersion()));
+        }
+
+        List<ClientMetadata.DependencyCategory> categories = new ArrayList<>();
+        dependencyService.getDependenciesByCategory()
+            .forEach((name, deps) -> categories.add(new ClientMetadata.DependencyCategory(name, deps)));
+
+        return new ClientMetadata(javaVersions, categories,
+            List.of("maven", "gradle"),
+            List.of("java", "kotlin", "groovy"),
+            List.of("jar", "war"),
+            buildDefaults());
+    }
+
+    private Map<String, Object> buildDefaults() {
+        ProjectRequest request = new ProjectRequest();
+        JavaVersion javaVersion = JavaVersion.fromVersion(request.getJavaVersion());
+
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("projectType", request.getProjectType());
+        defaults.put("language", request.getLanguage());
+        defaults.put("javaVersion", request.getJavaVersion());
+        defaults.put("springBootVersion", javaVersion != null ? javaVersion.getDefaultSpringVersion() : null);
+        defaults.put("groupId", request.getGroupId());
+        defaults.put("artifactId", request.getArtifactId());
+        defaults.put("name", request.getName());
+        defaults.put("description", request.getDescription());
+        defaults.put("packageName", request.getPackageName());
+        defaults.put("packaging", request.getPackaging());
+        defaults.put("dependencies", request.getDependencies());
+        return defaults;
+    }
+}
@@ -0,0 +1,160 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import com.leandrosnazareth.spring_kit.model.Dependency;
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import com.leandrosnazareth.spring_kit.service.contributor.FileFragmentContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.ProjectContributor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serves generated archives from the configured {@link ArchiveStore} tiers,
+ * generating and populating every tier on a miss. A failing tier is logged
+ * and skipped so the cache can never break generation.
+ */
+@Service
+public class ProjectArchiveCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectArchiveCache.class);
+
+    private final ProjectGeneratorService projectGeneratorService;
+    private final List<ArchiveStore> stores;
+    private final String generationVersion;
+
+    @Autowired
+    public ProjectArchiveCache(ProjectGeneratorService projectGeneratorService, List<ArchiveStore> stores,
+                               DependencyService dependencyService, List<ProjectContributor> contributors,
+                               List<FileFragmentContributor> fragments,
+                               ObjectProvider<BuildProperties> buildProperties) {
+        this(projectGeneratorService, stores, generationVersion(buildVersion(buildProperties.getIfAvailable()),
+            dependencyService.getAllDependencies(), concat(contributors, fragments)));
+    }
+
+    ProjectArchiveCache(ProjectGeneratorService projectGeneratorService, List<ArchiveStore> stores,
+                        String generationVersion) {
+        this.projectGeneratorService = projectGeneratorService;
+        this.stores = stores;
+        this.generationVersion = generationVersion;
+    }
+
+    public byte[] getOrGenerate(ProjectRequest request) throws IOException {
+        String key = cacheKey(request);
+        for (int i = 0; i < stores.size(); i++) {
+            ArchiveStore store = stores.get(i);
+            try {
+                byte[] archive = store.get(key);
+                if (archive != null) {
+                    // Promote into the faster tiers so the next hit does not go back to this one
+                    putAll(stores.subList(0, i), key, archive);
+                    return archive;
+                }
+            } catch (IOException e) {
+                log.warn("Archive store {} failed to read {}", store.getClass().getSimpleName(), key, e);
+            }
+        }
+
+        byte[] archive = projectGeneratorService.generateProject(request);
+        putAll(stores, key, archive);
+        return archive;
+    }
+
+    private static void putAll(List<ArchiveStore> targets, String key, byte[] archive) {
+        for (ArchiveStore store : targets) {
+            try {
+                store.put(key, archive);
+            } catch (IOException e) {
+                log.warn("Archive store {} failed to write {}", store.getClass().getSimpleName(), key, e);
+            }
+        }
+    }
+
+    /**
+     * Identifies everything besides the request that shapes an archive, so a
+     * deploy that changes the code, the catalog or the contributor set never
+     * serves (or shares with other replicas) archives built by another version.
+     */
+    static String generationVersion(String buildVersion, List<Dependency> dependencies,
+                                    List<?> contributors) {
+        StringBuilder sb = new StringBuilder();
+        appendField(sb, buildVersion);
+        for (Dependency dep : dependencies) {
+            appendField(sb, dep.getId());
+            appendField(sb, dep.getName());
+            appendField(sb, dep.getDescription());
+            appendField(sb, dep.getGroupId());
+            appendField(sb, dep.getArtifactId());
+            appendField(sb, dep.getCategory());
+        }
+        for (Object contributor : contributors) {
+            appendField(sb, contributor.getClass().getName());
+        }
+        return sha256(sb.toString());
+    }
+
+    private static List<Object> concat(List<?> first, List<?> second) {
+        List<Object> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    static String buildVersion(BuildProperties buildProperties) {
+        if (buildProperties == null) {
+            // Without build info (e.g. run from an IDE) nothing identifies the code, so archives
+            // cached on disk by an earlier run must not be reused
+            log.info("No build info available; archives cached by previous runs will not be reused");
+            return "development-" + UUID.randomUUID();
+        }
+        // Snapshot builds keep their version, so the build time tells them apart
+        return buildProperties.getVersion() + "@" + buildProperties.getTime();
+    }
+
+    private String cacheKey(ProjectRequest request) {
+        StringBuilder sb = new StringBuilder(generationVersion);
+        appendField(sb, request.getProjectType());
+        appendField(sb, request.getLanguage());
+        appendField(sb, request.getSpringBootVersion());
+        appendField(sb, request.getJavaVersion());
+        appendField(sb, request.getGroupId());
+        appendField(sb, request.getArtifactId());
+        appendField(sb, request.getName());
+        appendField(sb, request.getDescription());
+        appendField(sb, request.getPackageName());
+        appendField(sb, request.getPackaging());
+        // Dependency order is kept because it drives the order in the generated build file
+        for (String dependency : request.getDependencies()) {
+            appendField(sb, dependency);
+        }
+        return sha256(sb.toString());
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void appendField(StringBuilder sb, String value) {
+        // Length-prefixed so free-text fields such as the description cannot run into the next field
+        if (value == null) {
+            sb.append("|-");
+        } else {
+            sb.append('|').append(value.length()).append(':').append(value);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Minimal ZIP writer used in place of {@link java.util.zip.ZipOutputStream}.
+ * <p>
+ * Entries are encoded and deflated independently (in parallel once the archive
+ * is large enough to pay for the hand-off) using pooled {@link Deflater}s and
+ * direct buffers, then laid out in order into a single exactly-sized array.
+ * Only the classic (non-ZIP64) format is produced, which is all a generated
+ * project ever needs.
+ */
+@Component
+public class ZipArchiveWriter {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+    private static final short METHOD_STORED = 0;
+    private static final short METHOD_DEFLATED = 8;
+    private static final short FLAG_UTF8_NAMES = 0x0800;
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    // Below this many characters deflating on the caller thread is cheaper than scheduling
+    private static final int PARALLEL_THRESHOLD = 32 * 1024;
+    private static final int MAX_POOLED_WORKSPACES = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Executor executor;
+    private final Queue<Workspace> workspaces = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledWorkspaces = new AtomicInteger();
+
+    public ZipArchiveWriter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ZipArchiveWriter(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private String name;
+        private CharSequence content;
+    }
+
+    @PreDestroy
+    public void close() {
+        Workspace workspace;
+        while ((workspace = workspaces.poll()) != null) {
+            pooledWorkspaces.decrementAndGet();
+            workspace.deflater.end();
+        }
+    }
+
+    public byte[] write(List<Entry> entries) throws IOException {
+        if (entries.size() > 0xFFFF) {
+            throw new IOException("Too many ZIP entries: " + entries.size());
+        }
+
+        List<CompressedEntry> compressed = compressAll(entries);
+
+        long localSectionSize = 0;
+        long centralDirectorySize = 0;
+        for (CompressedEntry entry : compressed) {
+            localSectionSize += LOCAL_HEADER_SIZE + entry.name.length + entry.data.length;
+            centralDirectorySize += CENTRAL_HEADER_SIZE + entry.name.length;
+        }
+        long totalSize = localSectionSize + centralDirectorySize + END_OF_CENTRAL_DIRECTORY_SIZE;
+        if (totalSize > Integer.MAX_VALUE - 8) {
+            throw new IOException("ZIP archive too large: " + totalSize + " bytes");
+        }
+
+        int[] dosTime = toDosDateTime(LocalDateTime.now());
+        byte[] archive = new byte[(int) totalSize];
+        ByteBuffer out = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+
+        int[] offsets = new int[compressed.size()];
+        for (int i = 0; i < compressed.size(); i++) {
+            CompressedEntry entry = compressed.get(i);
+            offsets[i] = out.position();
+            out.putInt(LOCAL_HEADER_SIGNATURE);
+            out.putShort(versionNeeded(entry));
+            out.putShort(FLAG_UTF8_NAMES);
+            out.putShort(entry.method);
+            out.putShort((short) dosTime[0]);
+            out.putShort((short) dosTime[1]);
+            out.putInt(entry.crc);
+            out.putInt(entry.data.length);
+            out.putInt(entry.size);
+            out.putShort((short) entry.name.length);
+            out.putShort((short) 0);
+            out.put(entry.name);
+            out.put(entry.data);
+        }
+
+        int centralDirectoryOffset = out.position();
+        for (int i = 0; i < compressed.size(); i++) {
+            CompressedEntry entry = compressed.get(i);
+            out.putInt(CENTRAL_HEADER_SIGNATURE);
+            out.putShort((short) 20);
+            out.putShort(versionNeeded(entry));
+            out.putShort(FLAG_UTF8_NAMES);
+            out.putShort(entry.method);
+            out.putShort((short) dosTime[0]);
+            out.putShort((short) dosTime[1]);
+            out.putInt(entry.crc);
+            out.putInt(entry.data.length);
+            out.putInt(entry.size);
+            out.putShort((short) entry.name.length);
+            out.putShort((short) 0);
+            out.putShort((short) 0);
+            out.putShort((short) 0);
+            out.putShort((short) 0);
+            out.putInt(0);
+            out.putInt(offsets[i]);
+            out.put(entry.name);
+        }
+
+        out.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+        out.putShort((short) 0);
+        out.putShort((short) 0);
+        out.putShort((short) compressed.size());
+        out.putShort((short) compressed.size());
+        out.putInt((int) centralDirectorySize);
+        out.putInt(centralDirectoryOffset);
+        out.putShort((short) 0);
+
+        return archive;
+    }
+
+    private List<CompressedEntry> compressAll(List<Entry> entries) throws IOException {
+        long totalChars = 0;
+        for (Entry entry : entries) {
+            totalChars += entry.getContent().length();
+        }
+
+        List<CompressedEntry> compressed = new ArrayList<>(entries.size());
+        if (entries.size() < 2 || totalChars < PARALLEL_THRESHOLD) {
+            for (Entry entry : entries) {
+                compressed.add(compress(entry));
+            }
+            return compressed;
+        }
+
+        List<CompletableFuture<CompressedEntry>> futures = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return compress(entry);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+        try {
+            for (CompletableFuture<CompressedEntry> future : futures) {
+                compressed.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+        return compressed;
+    }
+
+    private CompressedEntry compress(Entry entry) throws IOException {
+        Workspace workspace = acquire();
+        try {
+            ByteBuffer input = workspace.encode(entry.getContent());
+            int size = input.remaining();
+
+            workspace.crc.reset();
+            workspace.crc.update(input.duplicate());
+
+            Deflater deflater = workspace.deflater;
+            deflater.reset();
+            deflater.setInput(input.duplicate());
+            deflater.finish();
+
+            ByteBuffer output = workspace.output;
+            output.clear();
+            ByteArrayOutputStream overflow = null;
+            while (!deflater.finished()) {
+                deflater.deflate(output);
+                if (!output.hasRemaining()) {
+                    if (overflow == null) {
+                        overflow = new ByteArrayOutputStream(output.capacity() * 2);
+                    }
+                    workspace.drain(overflow);
+                }
+            }
+            int compressedSize = (int) deflater.getBytesWritten();
+
+            short method;
+            byte[] data;
+            if (compressedSize < size) {
+                method = METHOD_DEFLATED;
+                if (overflow != null) {
+                    workspace.drain(overflow);
+                    data = overflow.toByteArray();
+                } else {
+                    output.flip();
+                    data = new byte[output.remaining()];
+                    output.get(data);
+                }
+            } else {
+                // Tiny or incompressible content is smaller stored as-is
+                method = METHOD_STORED;
+                data = new byte[size];
+                input.get(data);
+            }
+
+            byte[] name = entry.getName().getBytes(StandardCharsets.UTF_8);
+            if (name.length > 0xFFFF) {
+                throw new IOException("ZIP entry name too long: " + entry.getName());
+            }
+            return new CompressedEntry(name, method, (int) workspace.crc.getValue(), size, data);
+        } finally {
+            release(workspace);
+        }
+    }
+
+    private static short versionNeeded(CompressedEntry entry) {
+        return entry.method == METHOD_DEFLATED ? (short) 20 : (short) 10;
+    }
+
+    private static int[] toDosDateTime(LocalDateTime time) {
+        int year = Math.max(time.getYear(), 1980);
+        int dosTime = (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() >> 1);
+        int dosDate = ((year - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+        return new int[]{dosTime, dosDate};
+    }
+
+    private Workspace acquire() {
+        Workspace workspace = workspaces.poll();
+        if (workspace != null) {
+            pooledWorkspaces.decrementAndGet();
+            return workspace;
+        }
+        return new Workspace();
+    }
+
+    private void release(Workspace workspace) {
+        if (pooledWorkspaces.incrementAndGet() <= MAX_POOLED_WORKSPACES) {
+            workspaces.offer(workspace);
+        } else {
+            pooledWorkspaces.decrementAndGet();
+            workspace.deflater.end();
+        }
+    }
+
+    /**
+     * Scratch state for compressing one entry at a time. Workspaces are pooled
+     * and handed between threads through a queue, so the pooled buffers stay
+     * at {@link #INITIAL_BUFFER_SIZE}; larger entries get a one-off buffer.
+     */
+    private static class Workspace {
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final CRC32 crc = new CRC32();
+        private final ByteBuffer pooledInput = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+        private final ByteBuffer output = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+        private final byte[] chunk = new byte[INITIAL_BUFFER_SIZE];
+
+        private ByteBuffer encode(CharSequence content) throws IOException {
+            long required = (long) content.length() * (long) encoder.maxBytesPerChar();
+            if (required > Integer.MAX_VALUE) {
+                throw new IOException("ZIP entry too large: " + content.length() + " characters");
+            }
+            // A heap buffer for oversized entries is reclaimed by the next GC instead of pinning direct memory
+            ByteBuffer input = required > pooledInput.capacity() ? ByteBuffer.allocate((int) required) : pooledInput;
+            input.clear();
+            encoder.reset();
+            CoderResult result = encoder.encode(CharBuffer.wrap(content), input, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            result = encoder.flush(input);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            input.flip();
+            return input;
+        }
+
+        private void drain(ByteArrayOutputStream target) {
+            output.flip();
+            int length = output.remaining();
+            output.get(chunk, 0, length);
+            target.write(chunk, 0, length);
+            output.clear();
+        }
+    }
+
+    private static class CompressedEntry {
+        private final byte[] name;
+        private final short method;
+        private final int crc;
+        private final int size;
+        private final byte[] data;
+
+        private CompressedEntry(byte[] name, short method, int crc, int size, byte[] data) {
+            this.name = name;
+            this.method = method;
+            this.crc = crc;
+            this.size = size;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes the base {@code application.properties}; dependency specific
+ * settings are appended by {@link FileFragmentContributor}s.
+ */
+@Component
+@Order(40)
+public class ApplicationPropertiesContributor implements ProjectContributor {
+
+    static final String PATH = "src/main/resources/application.properties";
+
+    @Override
+    public List<String> getOutputs(ProjectRequest request) {
+        return List.of(PATH);
+    }
+
+    @Override
+    public String contribute(ProjectRequest request, String path) {
+        return "# Application Configuration\n";
+    }
+}
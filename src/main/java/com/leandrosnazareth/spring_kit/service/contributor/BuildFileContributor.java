@@ -0,0 +1,145 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.Dependency;
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import com.leandrosnazareth.spring_kit.service.DependencyService;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(10)
+public class BuildFileContributor implements ProjectContributor {
+
+    private final DependencyService dependencyService;
+
+    public BuildFileContributor(DependencyService dependencyService) {
+        this.dependencyService = dependencyService;
+    }
+
+    @Override
+    public List<String> getOutputs(ProjectRequest request) {
+        return List.of("maven".equals(request.getProjectType()) ? "pom.xml" : "build.gradle");
+    }
+
+    @Override
+    public String contribute(ProjectRequest request, String path) {
+        return "pom.xml".equals(path) ? generatePomXml(request) : generateBuildGradle(request);
+    }
+
+    private String generatePomXml(ProjectRequest request) {
+        StringBuilder sb = new StringBuilder();
+        List<Dependency> allDeps = dependencyService.getAllDependencies();
+        
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\"\n");
+        sb.append("         xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n");
+        sb.append("         xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0\n");
+        sb.append("         http://maven.apache.org/xsd/maven-4.0.0.xsd\">\n");
+        sb.append("    <modelVersion>4.0.0</modelVersion>\n\n");
+        
+        sb.append("    <parent>\n");
+        sb.append("        <groupId>org.springframework.boot</groupId>\n");
+        sb.append("        <artifactId>spring-boot-starter-parent</artifactId>\n");
+        sb.append("        <version>").append(request.getSpringBootVersion()).append("</version>\n");
+        sb.append("        <relativePath/>\n");
+        sb.append("    </parent>\n\n");
+        
+        sb.append("    <groupId>").append(request.getGroupId()).append("</groupId>\n");
+        sb.append("    <artifactId>").append(request.getArtifactId()).append("</artifactId>\n");
+        sb.append("    <version>0.0.1-SNAPSHOT</version>\n");
+        sb.append("    <packaging>").append(request.getPackaging()).append("</packaging>\n");
+        sb.append("    <name>").append(request.getName()).append("</name>\n");
+        sb.append("    <description>").append(request.getDescription()).append("</description>\n\n");
+        
+        sb.append("    <properties>\n");
+        sb.append("        <java.version>").append(request.getJavaVersion()).append("</java.version>\n");
+        sb.append("    </properties>\n\n");
+        
+        sb.append("    <dependencies>\n");
+        for (String depId : request.getDependencies()) {
+            Dependency dep = allDeps.stream()
+                .filter(d -> d.getId().equals(depId))
+                .findFirst()
+                .orElse(null);
+            
+            if (dep != null) {
+                sb.append("        <dependency>\n");
+                sb.append("            <groupId>").append(dep.getGroupId()).append("</groupId>\n");
+                sb.append("            <artifactId>").append(dep.getArtifactId()).append("</artifactId>\n");
+                if ("devtools".equals(depId) || "lombok".equals(depId)) {
+                    sb.append("            <optional>true</optional>\n");
+                }
+                if ("test".equals(depId)) {
+                    sb.append("            <scope>test</scope>\n");
+                }
+                if ("h2".equals(depId) || "devtools".equals(depId)) {
+                    sb.append("            <scope>runtime</scope>\n");
+                }
+                sb.append("        </dependency>\n");
+            }
+        }
+        sb.append("    </dependencies>\n\n");
+        
+        sb.append("    <build>\n");
+        sb.append("        <plugins>\n");
+        sb.append("            <plugin>\n");
+        sb.append("                <groupId>org.springframework.boot</groupId>\n");
+        sb.append("                <artifactId>spring-boot-maven-plugin</artifactId>\n");
+        sb.append("            </plugin>\n");
+        sb.append("        </plugins>\n");
+        sb.append("    </build>\n");
+        sb.append("</project>\n");
+        
+        return sb.toString();
+    }
+
+    private String generateBuildGradle(ProjectRequest request) {
+        StringBuilder sb = new StringBuilder();
+        List<Dependency> allDeps = dependencyService.getAllDependencies();
+        
+        sb.append("plugins {\n");
+        sb.append("    id 'java'\n");
+        sb.append("    id 'org.springframework.boot' version '").append(request.getSpringBootVersion()).append("'\n");
+        sb.append("    id 'io.spring.dependency-management' version '1.1.0'\n");
+        sb.append("}\n\n");
+        
+        sb.append("group = '").append(request.getGroupId()).append("'\n");
+        sb.append("version = '0.0.1-SNAPSHOT'\n");
+        sb.append("sourceCompatibility = '").append(request.getJavaVersion()).append("'\n\n");
+        
+        sb.append("repositories {\n");
+        sb.append("    mavenCentral()\n");
+        sb.append("}\n\n");
+        
+        sb.append("dependencies {\n");
+        for (String depId : request.getDependencies()) {
+            Dependency dep = allDeps.stream()
+                .filter(d -> d.getId().equals(depId))
+                .findFirst()
+                .orElse(null);
+            
+            if (dep != null) {
+                String config = "implementation";
+                if ("test".equals(depId)) {
+                    config = "testImplementation";
+                } else if ("h2".equals(depId) || "devtools".equals(depId)) {
+                    config = "runtimeOnly";
+                } else if ("lombok".equals(depId)) {
+                    config = "compileOnly";
+                }
+                sb.append("    ").append(config).append(" '")
+                    .append(dep.getGroupId()).append(":")
+                    .append(dep.getArtifactId()).append("'\n");
+            }
+        }
+        sb.append("}\n\n");
+        
+        sb.append("tasks.named('test') {\n");
+        sb.append("    useJUnitPlatform()\n");
+        sb.append("}\n");
+        
+        return sb.toString();
+    }
+}
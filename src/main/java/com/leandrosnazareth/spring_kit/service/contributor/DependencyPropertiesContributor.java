@@ -0,0 +1,33 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+
+/**
+ * Adds sample settings to {@code application.properties} when a given
+ * dependency is selected. Registered as beans in {@link SamplePropertiesConfiguration}.
+ */
+public class DependencyPropertiesContributor implements FileFragmentContributor {
+
+    private final String dependencyId;
+    private final String properties;
+
+    public DependencyPropertiesContributor(String dependencyId, String properties) {
+        this.dependencyId = dependencyId;
+        this.properties = properties;
+    }
+
+    @Override
+    public String getPath() {
+        return ApplicationPropertiesContributor.PATH;
+    }
+
+    @Override
+    public String contribute(ProjectRequest request) {
+        return request.getDependencies().contains(dependencyId) ? properties : null;
+    }
+
+    @Override
+    public String getName() {
+        return getClass().getName() + "[" + dependencyId + "]";
+    }
+}
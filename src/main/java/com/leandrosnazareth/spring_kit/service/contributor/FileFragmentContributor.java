@@ -0,0 +1,30 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+
+/**
+ * Appends a fragment to a file written by a {@link ProjectContributor}.
+ * Fragments for the same path are merged after the file's own content in
+ * {@link org.springframework.core.annotation.Order} sequence, separated by a
+ * blank line.
+ */
+public interface FileFragmentContributor {
+
+    /**
+     * @return path relative to the project root of the file to extend
+     */
+    String getPath();
+
+    /**
+     * @return the fragment to append, or {@code null} when it does not apply
+     */
+    String contribute(ProjectRequest request);
+
+    /**
+     * @return name this contributor is reported under in generation timings;
+     * must tell apart contributors that share a class
+     */
+    default String getName() {
+        return getClass().getName();
+    }
+}
@@ -0,0 +1,37 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(20)
+public class MainClassContributor implements ProjectContributor {
+
+    @Override
+    public List<String> getOutputs(ProjectRequest request) {
+        return List.of(ProjectLayout.mainJavaDir(request) + ProjectLayout.applicationClassName(request) + ".java");
+    }
+
+    @Override
+    public String contribute(ProjectRequest request, String path) {
+        return generateMainClass(request);
+    }
+
+    private String generateMainClass(ProjectRequest request) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(request.getPackageName()).append(";\n\n");
+        sb.append("import org.springframework.boot.SpringApplication;\n");
+        sb.append("import org.springframework.boot.autoconfigure.SpringBootApplication;\n\n");
+        sb.append("@SpringBootApplication\n");
+        sb.append("public class ").append(ProjectLayout.applicationClassName(request)).append(" {\n\n");
+        sb.append("    public static void main(String[] args) {\n");
+        sb.append("        SpringApplication.run(").append(ProjectLayout.applicationClassName(request))
+            .append(".class, args);\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+
+import java.util.List;
+
+/**
+ * Contributes files to a generated project. Contributors are picked up as
+ * beans and their outputs are written to the archive in
+ * {@link org.springframework.core.annotation.Order} sequence.
+ * <p>
+ * Outputs are rendered on the request thread unless the contributor declares
+ * itself {@link #isExpensive() expensive}, in which case they may run
+ * concurrently with others; either way {@link #contribute} must only depend
+ * on the request. Files shared by several contributors, such as
+ * {@code application.properties}, are extended with {@link FileFragmentContributor}s.
+ */
+public interface ProjectContributor {
+
+    /**
+     * @return paths relative to the project root written for this request,
+     * in archive order; empty when the contributor does not apply
+     */
+    List<String> getOutputs(ProjectRequest request);
+
+    /**
+     * @return the content of {@code path}, one of the declared outputs
+     */
+    String contribute(ProjectRequest request, String path);
+
+    /**
+     * @return {@code true} when rendering costs enough to be worth handing off
+     * to another thread; most contributors only build a small string
+     */
+    default boolean isExpensive() {
+        return false;
+    }
+
+    /**
+     * @return name this contributor is reported under in generation timings;
+     * must tell apart contributors that share a class
+     */
+    default String getName() {
+        return getClass().getName();
+    }
+}
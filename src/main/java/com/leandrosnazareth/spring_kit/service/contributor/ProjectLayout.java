@@ -0,0 +1,31 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+
+/**
+ * Naming helpers shared by the contributors.
+ */
+final class ProjectLayout {
+
+    private ProjectLayout() {
+    }
+
+    static String mainJavaDir(ProjectRequest request) {
+        return "src/main/java/" + request.getPackageName().replace(".", "/") + "/";
+    }
+
+    static String testJavaDir(ProjectRequest request) {
+        return "src/test/java/" + request.getPackageName().replace(".", "/") + "/";
+    }
+
+    static String applicationClassName(ProjectRequest request) {
+        return capitalize(request.getName()) + "Application";
+    }
+
+    static String capitalize(String str) {
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+        return str.substring(0, 1).toUpperCase() + str.substring(1);
+    }
+}
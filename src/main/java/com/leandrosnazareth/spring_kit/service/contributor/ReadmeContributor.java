@@ -0,0 +1,48 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(60)
+public class ReadmeContributor implements ProjectContributor {
+
+    @Override
+    public List<String> getOutputs(ProjectRequest request) {
+        return List.of("README.md");
+    }
+
+    @Override
+    public String contribute(ProjectRequest request, String path) {
+        return generateReadme(request);
+    }
+
+    private String generateReadme(ProjectRequest request) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# ").append(request.getName()).append("\n\n");
+        sb.append(request.getDescription()).append("\n\n");
+        sb.append("## Build Information\n\n");
+        sb.append("- **Java Version**: ").append(request.getJavaVersion()).append("\n");
+        sb.append("- **Spring Boot Version**: ").append(request.getSpringBootVersion()).append("\n");
+        sb.append("- **Build Tool**: ").append(request.getProjectType()).append("\n");
+        sb.append("- **Packaging**: ").append(request.getPackaging()).append("\n\n");
+        sb.append("## Getting Started\n\n");
+        
+        if ("maven".equals(request.getProjectType())) {
+            sb.append("### Maven\n");
+            sb.append("```bash\n");
+            sb.append("./mvnw spring-boot:run\n");
+            sb.append("```\n");
+        } else {
+            sb.append("### Gradle\n");
+            sb.append("```bash\n");
+            sb.append("./gradlew bootRun\n");
+            sb.append("```\n");
+        }
+        
+        return sb.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adds a minimal REST controller when Spring Web is selected.
+ */
+@Component
+@Order(30)
+public class SampleControllerContributor implements ProjectContributor {
+
+    @Override
+    public List<String> getOutputs(ProjectRequest request) {
+        if (!request.getDependencies().contains("web")) {
+            return List.of();
+        }
+        return List.of(ProjectLayout.mainJavaDir(request) + "controller/HelloController.java");
+    }
+
+    @Override
+    public String contribute(ProjectRequest request, String path) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(request.getPackageName()).append(".controller;\n\n");
+        sb.append("import org.springframework.web.bind.annotation.GetMapping;\n");
+        sb.append("import org.springframework.web.bind.annotation.RequestParam;\n");
+        sb.append("import org.springframework.web.bind.annotation.RestController;\n\n");
+        sb.append("@RestController\n");
+        sb.append("public class HelloController {\n\n");
+        sb.append("    @GetMapping(\"/hello\")\n");
+        sb.append("    public String hello(@RequestParam(defaultValue = \"World\") String name) {\n");
+        sb.append("        return \"Hello, \" + name + \"!\";\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Sample {@code application.properties} settings for dependencies that need
+ * configuration to get started. Add a bean here to cover another dependency.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SamplePropertiesConfiguration {
+
+    @Bean
+    @Order(10)
+    DependencyPropertiesContributor h2Properties() {
+        return new DependencyPropertiesContributor("h2", "# H2 Database\n"
+            + "spring.datasource.url=jdbc:h2:mem:testdb\n"
+            + "spring.h2.console.enabled=true\n");
+    }
+
+    @Bean
+    @Order(10)
+    DependencyPropertiesContributor mysqlProperties() {
+        return new DependencyPropertiesContributor("mysql", "# MySQL\n"
+            + "spring.datasource.url=jdbc:mysql://localhost:3306/mydb\n"
+            + "spring.datasource.username=root\n"
+            + "spring.datasource.password=\n");
+    }
+
+    @Bean
+    @Order(10)
+    DependencyPropertiesContributor postgresqlProperties() {
+        return new DependencyPropertiesContributor("postgresql", "# PostgreSQL\n"
+            + "spring.datasource.url=jdbc:postgresql://localhost:5432/mydb\n"
+            + "spring.datasource.username=postgres\n"
+            + "spring.datasource.password=\n");
+    }
+
+    @Bean
+    @Order(10)
+    DependencyPropertiesContributor mariadbProperties() {
+        return new DependencyPropertiesContributor("mariadb", "# MariaDB\n"
+            + "spring.datasource.url=jdbc:mariadb://localhost:3306/mydb\n"
+            + "spring.datasource.username=root\n"
+            + "spring.datasource.password=\n");
+    }
+
+    @Bean
+    @Order(20)
+    DependencyPropertiesContributor jpaProperties() {
+        return new DependencyPropertiesContributor("jpa", "# JPA\n"
+            + "spring.jpa.hibernate.ddl-auto=update\n"
+            + "spring.jpa.show-sql=true\n");
+    }
+
+    @Bean
+    @Order(30)
+    DependencyPropertiesContributor mongodbProperties() {
+        return new DependencyPropertiesContributor("mongodb", "# MongoDB\n"
+            + "spring.data.mongodb.uri=mongodb://localhost:27017/mydb\n");
+    }
+
+    @Bean
+    @Order(30)
+    DependencyPropertiesContributor redisProperties() {
+        return new DependencyPropertiesContributor("redis", "# Redis\n"
+            + "spring.data.redis.host=localhost\n"
+            + "spring.data.redis.port=6379\n");
+    }
+
+    @Bean
+    @Order(40)
+    DependencyPropertiesContributor kafkaProperties() {
+        return new DependencyPropertiesContributor("kafka", "# Kafka\n"
+            + "spring.kafka.bootstrap-servers=localhost:9092\n");
+    }
+
+    @Bean
+    @Order(40)
+    DependencyPropertiesContributor amqpProperties() {
+        return new DependencyPropertiesContributor("amqp", "# RabbitMQ\n"
+            + "spring.rabbitmq.host=localhost\n"
+            + "spring.rabbitmq.port=5672\n");
+    }
+
+    @Bean
+    @Order(50)
+    DependencyPropertiesContributor actuatorProperties() {
+        return new DependencyPropertiesContributor("actuator", "# Actuator\n"
+            + "management.endpoints.web.exposure.include=health,info\n");
+    }
+
+    @Bean
+    @Order(60)
+    DependencyPropertiesContributor thymeleafProperties() {
+        return new DependencyPropertiesContributor("thymeleaf", "# Thymeleaf\n"
+            + "spring.thymeleaf.cache=false\n");
+    }
+}
@@ -0,0 +1,36 @@
+package com.leandrosnazareth.spring_kit.service.contributor;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(50)
+public class TestClassContributor implements ProjectContributor {
+
+    @Override
+    public List<String> getOutputs(ProjectRequest request) {
+        return List.of(ProjectLayout.testJavaDir(request) + ProjectLayout.applicationClassName(request) + "Tests.java");
+    }
+
+    @Override
+    public String contribute(ProjectRequest request, String path) {
+        return generateTestClass(request);
+    }
+
+    private String generateTestClass(ProjectRequest request) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(request.getPackageName()).append(";\n\n");
+        sb.append("import org.junit.jupiter.api.Test;\n");
+        sb.append("import org.springframework.boot.test.context.SpringBootTest;\n\n");
+        sb.append("@SpringBootTest\n");
+        sb.append("class ").append(ProjectLayout.applicationClassName(request)).append("Tests {\n\n");
+        sb.append("    @Test\n");
+        sb.append("    void contextLoads() {\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
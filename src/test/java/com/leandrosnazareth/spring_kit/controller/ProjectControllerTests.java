@@ -0,0 +1,79 @@
+package com.leandrosnazareth.spring_kit.controller;
+
+import com.leandrosnazareth.spring_kit.service.ZipTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring-kit.archive-cache.disk.enabled=false")
+class ProjectControllerTests {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void clientMetadataDescribesVersionsDependenciesAndDefaults() throws Exception {
+        mockMvc.perform(get("/metadata/client"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/json"))
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.javaVersions[?(@.id == '17')].name").value("Java 17 (LTS)"))
+            .andExpect(jsonPath("$.javaVersions[?(@.id == '17')].defaultSpringBootVersion").value("4.0.0"))
+            .andExpect(jsonPath("$.javaVersions[?(@.id == '8')].springBootVersions[0]").value("2.0.9.RELEASE"))
+            .andExpect(jsonPath("$.dependencies[0].name").value("Web"))
+            .andExpect(jsonPath("$.dependencies[0].values[0].id").value("web"))
+            .andExpect(jsonPath("$.projectTypes", hasItem("gradle")))
+            .andExpect(jsonPath("$.defaults.groupId").value("com.example"))
+            .andExpect(jsonPath("$.defaults.javaVersion").value("17"))
+            .andExpect(jsonPath("$.defaults.springBootVersion").value("4.0.0"));
+    }
+
+    @Test
+    void clientMetadataAnswersNotModifiedForMatchingETag() throws Exception {
+        String eTag = mockMvc.perform(get("/metadata/client"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/metadata/client").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void starterZipDefaultsSpringBootVersionFromJavaVersion() throws Exception {
+        byte[] archive = mockMvc.perform(get("/starter.zip")
+                .param("artifactId", "demo")
+                .param("javaVersion", "11"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "form-data; name=\"attachment\"; filename=\"demo.zip\""))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        String pom = ZipTestSupport.readEntries(archive).get("demo/pom.xml");
+        assertTrue(pom.contains("<version>2.7.18</version>"), pom);
+        assertTrue(pom.contains("<java.version>11</java.version>"), pom);
+    }
+
+    @Test
+    void starterZipRejectsUnknownJavaVersion() throws Exception {
+        mockMvc.perform(get("/starter.zip").param("javaVersion", "9"))
+            .andExpect(status().isBadRequest());
+    }
+}
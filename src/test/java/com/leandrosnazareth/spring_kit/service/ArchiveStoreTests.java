@@ -0,0 +1,119 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchiveStoreTests {
+
+    @Test
+    void inMemoryStoreEvictsLeastRecentlyUsed() throws IOException {
+        InMemoryArchiveStore store = new InMemoryArchiveStore(20);
+        store.put("a", new byte[8]);
+        store.put("b", new byte[8]);
+        store.get("a");
+        store.put("c", new byte[8]);
+
+        assertNotNull(store.get("a"));
+        assertNull(store.get("b"));
+        assertNotNull(store.get("c"));
+    }
+
+    @Test
+    void fileSystemStoreRoundTripsWithoutLeavingTemporaryFiles(@TempDir Path tempDir) throws IOException {
+        FileSystemArchiveStore store = new FileSystemArchiveStore(tempDir.toString(), 1_000_000);
+        String key = "ab12cd";
+        byte[] archive = new byte[200_000];
+        for (int i = 0; i < archive.length; i++) {
+            archive[i] = (byte) i;
+        }
+
+        assertNull(store.get(key));
+        store.put(key, archive);
+
+        assertArrayEquals(archive, store.get(key));
+
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void fileSystemStoreEvictsLeastRecentlyUsedOverTheLimit(@TempDir Path tempDir) throws IOException {
+        FileSystemArchiveStore store = new FileSystemArchiveStore(tempDir.toString(), 250);
+        store.put("aa01", new byte[100]);
+        store.put("bb02", new byte[100]);
+        setLastModified(tempDir, "aa01", Instant.now().minus(Duration.ofHours(2)));
+        setLastModified(tempDir, "bb02", Instant.now().minus(Duration.ofHours(1)));
+
+        store.put("cc03", new byte[100]);
+
+        assertNull(store.get("aa01"));
+        assertNotNull(store.get("bb02"));
+        assertNotNull(store.get("cc03"));
+    }
+
+    @Test
+    void fileSystemStoreCountsArchivesLeftByAPreviousRun(@TempDir Path tempDir) throws IOException {
+        new FileSystemArchiveStore(tempDir.toString(), 250).put("aa01", new byte[200]);
+        setLastModified(tempDir, "aa01", Instant.now().minus(Duration.ofHours(1)));
+
+        FileSystemArchiveStore restarted = new FileSystemArchiveStore(tempDir.toString(), 250);
+        restarted.put("bb02", new byte[100]);
+
+        assertNull(restarted.get("aa01"));
+        assertNotNull(restarted.get("bb02"));
+    }
+
+    @Test
+    void fileSystemStoreEvictsDownToALowWaterMark(@TempDir Path tempDir) throws IOException {
+        FileSystemArchiveStore store = new FileSystemArchiveStore(tempDir.toString(), 1_000);
+        Instant start = Instant.now().minus(Duration.ofHours(1));
+        for (int i = 0; i < 10; i++) {
+            String key = String.format("%02d", i);
+            store.put(key, new byte[100]);
+            setLastModified(tempDir, key, start.plusSeconds(i));
+        }
+
+        // 1,100 bytes: evicting one archive would leave the directory at the limit, so two go
+        store.put("10", new byte[100]);
+
+        assertNull(store.get("00"));
+        assertNull(store.get("01"));
+        for (int i = 2; i < 11; i++) {
+            assertNotNull(store.get(String.format("%02d", i)));
+        }
+    }
+
+    @Test
+    void fileSystemStoreRemovesTemporaryFilesAbandonedByACrash(@TempDir Path tempDir) throws IOException {
+        Path shard = Files.createDirectories(tempDir.resolve("aa"));
+        Path stale = Files.write(shard.resolve("aa01123.tmp"), new byte[100]);
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        Path inFlight = Files.write(shard.resolve("aa02456.tmp"), new byte[100]);
+
+        new FileSystemArchiveStore(tempDir.toString(), 1_000);
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(inFlight));
+    }
+
+    private static void setLastModified(Path directory, String key, Instant time) throws IOException {
+        Path file = directory.resolve(key.substring(0, 2)).resolve(key + ".zip");
+        Files.setLastModifiedTime(file, FileTime.from(time));
+    }
+}
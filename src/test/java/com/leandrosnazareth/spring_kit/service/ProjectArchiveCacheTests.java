@@ -0,0 +1,164 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import com.leandrosnazareth.spring_kit.model.Dependency;
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import com.leandrosnazareth.spring_kit.service.contributor.ProjectContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.ReadmeContributor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ProjectArchiveCacheTests {
+
+    private final AtomicInteger generations = new AtomicInteger();
+    private final List<String> lookups = new ArrayList<>();
+
+    private final ProjectGeneratorService generator = new ProjectGeneratorService(
+        List.of(new CountingContributor()), List.of(), new ZipArchiveWriter());
+
+    @Test
+    void missGeneratesOnceAndPopulatesEveryTier() throws IOException {
+        RecordingStore memory = new RecordingStore("memory");
+        RecordingStore disk = new RecordingStore("disk");
+        ProjectArchiveCache cache = new ProjectArchiveCache(generator, List.of(memory, disk), "v1");
+
+        byte[] archive = cache.getOrGenerate(new ProjectRequest());
+
+        assertEquals(1, generations.get());
+        assertEquals(List.of("memory", "disk"), lookups);
+        assertArrayEquals(archive, memory.only());
+        assertArrayEquals(archive, disk.only());
+    }
+
+    @Test
+    void tiersAreConsultedInOrderAndStopAtTheFirstHit() throws IOException {
+        RecordingStore memory = new RecordingStore("memory");
+        RecordingStore disk = new RecordingStore("disk");
+        ProjectArchiveCache cache = new ProjectArchiveCache(generator, List.of(memory, disk), "v1");
+        cache.getOrGenerate(new ProjectRequest());
+        lookups.clear();
+
+        cache.getOrGenerate(new ProjectRequest());
+
+        assertEquals(1, generations.get());
+        assertEquals(List.of("memory"), lookups);
+    }
+
+    @Test
+    void lowerTierHitIsPromotedIntoTheTiersAbove() throws IOException {
+        RecordingStore memory = new RecordingStore("memory");
+        RecordingStore disk = new RecordingStore("disk");
+        ProjectArchiveCache cache = new ProjectArchiveCache(generator, List.of(memory, disk), "v1");
+        byte[] archive = cache.getOrGenerate(new ProjectRequest());
+        // Simulates a restart: the heap tier is empty, the disk tier is not
+        memory.archives.clear();
+        lookups.clear();
+
+        assertArrayEquals(archive, cache.getOrGenerate(new ProjectRequest()));
+
+        assertEquals(1, generations.get());
+        assertEquals(List.of("memory", "disk"), lookups);
+        assertArrayEquals(archive, memory.only());
+    }
+
+    @Test
+    void failingTierIsSkipped() throws IOException {
+        RecordingStore disk = new RecordingStore("disk");
+        ProjectArchiveCache cache = new ProjectArchiveCache(generator, List.of(new FailingStore(), disk), "v1");
+
+        byte[] archive = cache.getOrGenerate(new ProjectRequest());
+        assertArrayEquals(archive, cache.getOrGenerate(new ProjectRequest()));
+
+        assertEquals(1, generations.get());
+        assertArrayEquals(archive, disk.only());
+    }
+
+    @Test
+    void generationVersionSeparatesArchivesFromOtherBuilds() throws IOException {
+        RecordingStore shared = new RecordingStore("shared");
+        new ProjectArchiveCache(generator, List.of(shared), "v1").getOrGenerate(new ProjectRequest());
+        new ProjectArchiveCache(generator, List.of(shared), "v2").getOrGenerate(new ProjectRequest());
+
+        assertEquals(2, generations.get());
+        assertEquals(2, shared.archives.size());
+    }
+
+    @Test
+    void generationVersionTracksBuildCatalogAndContributors() {
+        List<Dependency> catalog = List.of(new Dependency("web", "Spring Web", "Web apps",
+            "org.springframework.boot", "spring-boot-starter-web", "Web"));
+        List<ProjectContributor> contributors = List.of(new ReadmeContributor());
+        String base = ProjectArchiveCache.generationVersion("1.0", catalog, contributors);
+
+        assertEquals(base, ProjectArchiveCache.generationVersion("1.0", catalog, contributors));
+        assertNotEquals(base, ProjectArchiveCache.generationVersion("1.1", catalog, contributors));
+        assertNotEquals(base, ProjectArchiveCache.generationVersion("1.0", List.of(), contributors));
+        assertNotEquals(base, ProjectArchiveCache.generationVersion("1.0", catalog,
+            List.of(new ReadmeContributor(), new CountingContributor())));
+    }
+
+    @Test
+    void runsWithoutBuildInfoNeverShareAVersion() {
+        assertNotEquals(ProjectArchiveCache.buildVersion(null), ProjectArchiveCache.buildVersion(null));
+    }
+
+    private class CountingContributor implements ProjectContributor {
+
+        @Override
+        public List<String> getOutputs(ProjectRequest request) {
+            return List.of("README.md");
+        }
+
+        @Override
+        public String contribute(ProjectRequest request, String path) {
+            return "# generation " + generations.incrementAndGet() + "\n";
+        }
+    }
+
+    private class RecordingStore implements ArchiveStore {
+        private final String name;
+        private final Map<String, byte[]> archives = new HashMap<>();
+
+        private RecordingStore(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public byte[] get(String key) {
+            lookups.add(name);
+            return archives.get(key);
+        }
+
+        @Override
+        public void put(String key, byte[] archive) {
+            archives.put(key, archive);
+        }
+
+        private byte[] only() {
+            assertEquals(1, archives.size());
+            return archives.values().iterator().next();
+        }
+    }
+
+    private static class FailingStore implements ArchiveStore {
+
+        @Override
+        public byte[] get(String key) throws IOException {
+            throw new IOException("read failed");
+        }
+
+        @Override
+        public void put(String key, byte[] archive) throws IOException {
+            throw new IOException("write failed");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import com.leandrosnazareth.spring_kit.model.ProjectRequest;
+import com.leandrosnazareth.spring_kit.service.contributor.ApplicationPropertiesContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.BuildFileContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.DependencyPropertiesContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.FileFragmentContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.GitignoreContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.MainClassContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.ProjectContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.ReadmeContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.SampleControllerContributor;
+import com.leandrosnazareth.spring_kit.service.contributor.TestClassContributor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectGeneratorServiceTests {
+
+    private final List<ProjectContributor> contributors = List.of(
+        new BuildFileContributor(new DependencyService()),
+        new MainClassContributor(),
+        new SampleControllerContributor(),
+        new ApplicationPropertiesContributor(),
+        new TestClassContributor(),
+        new ReadmeContributor(),
+        new GitignoreContributor());
+
+    private final List<FileFragmentContributor> fragments = List.of(
+        new DependencyPropertiesContributor("h2", "# H2 Database\nspring.datasource.url=jdbc:h2:mem:testdb\n"),
+        new DependencyPropertiesContributor("jpa", "# JPA\nspring.jpa.hibernate.ddl-auto=update\n"));
+
+    @Test
+    void contributorOutputsAreWrittenInOrder() throws IOException {
+        ProjectRequest request = new ProjectRequest();
+        request.setSpringBootVersion("4.0.0");
+        request.setDependencies(List.of("web", "h2"));
+
+        ProjectGeneratorService service = new ProjectGeneratorService(contributors, fragments, new ZipArchiveWriter());
+        Map<String, String> files = ZipTestSupport.readEntries(service.generateProject(request));
+
+        assertEquals(List.of(
+            "demo/pom.xml",
+            "demo/src/main/java/com/example/demo/DemoApplication.java",
+            "demo/src/main/java/com/example/demo/controller/HelloController.java",
+            "demo/src/main/resources/application.properties",
+            "demo/src/test/java/com/example/demo/DemoApplicationTests.java",
+            "demo/README.md",
+            "demo/.gitignore"), List.copyOf(files.keySet()));
+        assertEquals(9, service.getContributorTimings().values().stream()
+            .mapToLong(ProjectGeneratorService.ContributorTiming::getInvocations).sum());
+    }
+
+    @Test
+    void sampleControllerIsOnlyAddedWithSpringWeb() throws IOException {
+        ProjectRequest request = new ProjectRequest();
+        request.setSpringBootVersion("4.0.0");
+        request.setDependencies(List.of("jpa"));
+
+        ProjectGeneratorService service = new ProjectGeneratorService(contributors, fragments, new ZipArchiveWriter());
+        Map<String, String> files = ZipTestSupport.readEntries(service.generateProject(request));
+
+        assertFalse(files.containsKey("demo/src/main/java/com/example/demo/controller/HelloController.java"));
+        assertTrue(files.containsKey("demo/src/main/java/com/example/demo/DemoApplication.java"));
+    }
+
+    @Test
+    void gradleProjectsGetABuildGradleInsteadOfAPom() throws IOException {
+        ProjectRequest request = new ProjectRequest();
+        request.setProjectType("gradle");
+        request.setSpringBootVersion("4.0.0");
+        request.setDependencies(List.of("web", "lombok"));
+
+        ProjectGeneratorService service = new ProjectGeneratorService(contributors, fragments, new ZipArchiveWriter());
+        Map<String, String> files = ZipTestSupport.readEntries(service.generateProject(request));
+
+        assertEquals("demo/build.gradle", files.keySet().iterator().next());
+        assertFalse(files.containsKey("demo/pom.xml"));
+        String buildGradle = files.get("demo/build.gradle");
+        assertTrue(buildGradle.contains("id 'org.springframework.boot' version '4.0.0'"), buildGradle);
+        assertTrue(buildGradle.contains("implementation 'org.springframework.boot:spring-boot-starter-web'"), buildGradle);
+        assertTrue(buildGradle.contains("compileOnly 'org.projectlombok:lombok'"), buildGradle);
+        assertTrue(files.get("demo/.gitignore").contains("### Gradle ###"));
+        assertTrue(files.get("demo/README.md").contains("./gradlew bootRun"));
+    }
+
+    @Test
+    void fragmentsAreMergedIntoTheFileTheyExtend() throws IOException {
+        ProjectRequest request = new ProjectRequest();
+        request.setSpringBootVersion("4.0.0");
+        request.setDependencies(List.of("jpa", "h2"));
+
+        ProjectGeneratorService service = new ProjectGeneratorService(contributors, fragments, new ZipArchiveWriter());
+        Map<String, String> files = ZipTestSupport.readEntries(service.generateProject(request));
+
+        // Fragment order follows the beans, not the order dependencies were selected in
+        assertEquals("# Application Configuration\n"
+            + "\n# H2 Database\nspring.datasource.url=jdbc:h2:mem:testdb\n"
+            + "\n# JPA\nspring.jpa.hibernate.ddl-auto=update\n",
+            files.get("demo/src/main/resources/application.properties"));
+        // Beans sharing a class are still timed separately
+        Map<String, ProjectGeneratorService.ContributorTiming> timings = service.getContributorTimings();
+        assertEquals(1, timings.get(DependencyPropertiesContributor.class.getName() + "[h2]").getInvocations());
+        assertEquals(1, timings.get(DependencyPropertiesContributor.class.getName() + "[jpa]").getInvocations());
+    }
+
+    @Test
+    void onlyExpensiveContributorsAreHandedToTheExecutor() throws IOException {
+        List<Runnable> submitted = new ArrayList<>();
+        Executor recordingExecutor = task -> {
+            submitted.add(task);
+            task.run();
+        };
+        ProjectContributor expensive = new ProjectContributor() {
+            @Override
+            public List<String> getOutputs(ProjectRequest request) {
+                return List.of("docs/guide.md");
+            }
+
+            @Override
+            public String contribute(ProjectRequest request, String path) {
+                return "# Guide\n";
+            }
+
+            @Override
+            public boolean isExpensive() {
+                return true;
+            }
+        };
+
+        ProjectRequest request = new ProjectRequest();
+        request.setSpringBootVersion("4.0.0");
+        List<ProjectContributor> all = new ArrayList<>(contributors);
+        all.add(expensive);
+        ProjectGeneratorService service = new ProjectGeneratorService(all, fragments, new ZipArchiveWriter(),
+            recordingExecutor);
+        Map<String, String> files = ZipTestSupport.readEntries(service.generateProject(request));
+
+        assertEquals(1, submitted.size());
+        assertEquals("# Guide\n", files.get("demo/docs/guide.md"));
+    }
+
+    @Test
+    void overlappingOutputsAreRejected() {
+        ProjectRequest request = new ProjectRequest();
+        ProjectGeneratorService service = new ProjectGeneratorService(
+            List.of(new ReadmeContributor(), new ReadmeContributor()), List.of(), new ZipArchiveWriter());
+
+        assertThrows(IllegalStateException.class, () -> service.generateProject(request));
+    }
+}
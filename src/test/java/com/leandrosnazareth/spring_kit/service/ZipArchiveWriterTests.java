@@ -0,0 +1,78 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ZipArchiveWriterTests {
+
+    private final ZipArchiveWriter writer = new ZipArchiveWriter();
+
+    @Test
+    void smallEntriesRoundTripThroughZipInputStream() throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("demo/pom.xml", "<project>\n</project>\n");
+        files.put("demo/src/main/resources/application.properties", "");
+        files.put("demo/README.md", "# demo\n\nCafé, naïve, 日本語\n");
+
+        assertEquals(files, ZipTestSupport.readEntries(writer.write(toEntries(files))));
+    }
+
+    @Test
+    void largeEntriesAreDeflatedInParallelAndKeepOrder() throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 8; i++) {
+            StringBuilder sb = new StringBuilder();
+            // Mix repetitive and random text so both compressible and overflowing output are exercised
+            for (int line = 0; line < 20_000; line++) {
+                sb.append("line ").append(line).append(' ').append(Long.toHexString(random.nextLong())).append('\n');
+            }
+            files.put("demo/file-" + i + ".txt", sb.toString());
+        }
+
+        byte[] archive = writer.write(toEntries(files));
+
+        assertEquals(files, ZipTestSupport.readEntries(archive));
+    }
+
+    @Test
+    void centralDirectoryIsReadableByZipFile(@TempDir Path tempDir) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("demo/a.txt", "a".repeat(10_000));
+        files.put("demo/b/ü.txt", "b");
+
+        Path zip = tempDir.resolve("demo.zip");
+        Files.write(zip, writer.write(toEntries(files)));
+
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            List<String> names = new ArrayList<>();
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                names.add(entry.getName());
+                String content = new String(zipFile.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+                assertEquals(files.get(entry.getName()), content);
+            }
+            assertEquals(new ArrayList<>(files.keySet()), names);
+        }
+    }
+
+    private static List<ZipArchiveWriter.Entry> toEntries(Map<String, String> files) {
+        List<ZipArchiveWriter.Entry> entries = new ArrayList<>();
+        files.forEach((name, content) -> entries.add(new ZipArchiveWriter.Entry(name, content)));
+        return entries;
+    }
+}
@@ -0,0 +1,32 @@
+package com.leandrosnazareth.spring_kit.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads archives back with the JDK's {@link ZipInputStream} for assertions.
+ */
+public final class ZipTestSupport {
+
+    private ZipTestSupport() {
+    }
+
+    /**
+     * @return entry names mapped to their UTF-8 content, in archive order
+     */
+    public static Map<String, String> readEntries(byte[] archive) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                files.put(entry.getName(), new String(zis.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return files;
+    }
+}